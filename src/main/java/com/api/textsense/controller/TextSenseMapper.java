@@ -1,8 +1,10 @@
 package com.api.textsense.controller;
 
+import com.api.textsense.dto.response.SentenceSentimentResponse;
 import com.api.textsense.dto.response.SentimentResponse;
 import com.api.textsense.dto.response.StatisticsResponse;
 import com.api.textsense.dto.response.TextSenseResponse;
+import com.api.textsense.model.SentenceSentiment;
 import com.api.textsense.model.Sentiment;
 import com.api.textsense.model.Statistics;
 import com.api.textsense.model.TextSense;
@@ -22,7 +24,21 @@ public class TextSenseMapper {
     private SentimentResponse toSentimentResponse(Sentiment sentiment) {
         return new SentimentResponse(
                 sentiment.score(),
-                sentiment.label().getDescription()
+                sentiment.averageScore(),
+                sentiment.label().getDescription(),
+                sentiment.sentencesAnalysed(),
+                sentiment.sentenceCount(),
+                sentiment.sentences().stream()
+                        .map(this::toSentenceSentimentResponse)
+                        .toList()
+        );
+    }
+
+    private SentenceSentimentResponse toSentenceSentimentResponse(SentenceSentiment sentenceSentiment) {
+        return new SentenceSentimentResponse(
+                sentenceSentiment.text(),
+                sentenceSentiment.score(),
+                sentenceSentiment.label().getDescription()
         );
     }
 
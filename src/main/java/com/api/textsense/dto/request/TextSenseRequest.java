@@ -1,8 +1,27 @@
 package com.api.textsense.dto.request;
 
+import com.api.textsense.model.SentimentMode;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
-public record TextSenseRequest(@NotBlank(message = "The text can't be null") @Size(max = 300, message = "The text can't be more than 300 characteres") String text) {
+public record TextSenseRequest(@NotBlank(message = "The text can't be null") @Size(max = 300, message = "The text can't be more than 300 characteres") String text,
+                               Boolean keyPhrases,
+                               SentimentMode sentimentMode,
+                               @Positive(message = "The sentiment sample must be greater than zero") Integer sentimentSample) {
+
+    public boolean isKeyPhrases() {
+        return Boolean.TRUE.equals(keyPhrases);
+    }
+
+    public SentimentMode sentimentModeOrDefault() {
+        return sentimentMode != null ? sentimentMode : SentimentMode.AVERAGE;
+    }
+
+    @AssertTrue(message = "The sentiment sample is only allowed with the SUMMARY sentiment mode")
+    public boolean isSentimentSampleAllowed() {
+        return sentimentSample == null || sentimentModeOrDefault() == SentimentMode.SUMMARY;
+    }
 }
@@ -0,0 +1,8 @@
+package com.api.textsense.dto.response;
+
+public record SentenceSentimentResponse(
+        String text,
+        int score,
+        String label
+) {
+}
@@ -1,7 +1,13 @@
 package com.api.textsense.dto.response;
 
+import java.util.List;
+
 public record SentimentResponse(
         double score,
-        String label
+        double averageScore,
+        String label,
+        int sentencesAnalysed,
+        int sentenceCount,
+        List<SentenceSentimentResponse> sentences
 ) {
 }
@@ -0,0 +1,9 @@
+package com.api.textsense.model;
+
+public record SentenceSentiment(
+        String text,
+        Label label,
+        int score,
+        int tokenCount
+) {
+}
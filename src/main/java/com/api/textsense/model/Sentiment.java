@@ -1,7 +1,35 @@
 package com.api.textsense.model;
 
+import java.util.List;
+
+/**
+ * Resultado da análise de sentimento.
+ *
+ * @param label Label correspondente ao score
+ * @param score Score arredondado de 0 a 4
+ * @param averageScore Média não arredondada: simples no modo AVERAGE, ponderada por tokens nos demais
+ * @param sentences Scores das sentenças analisadas (vazio no modo AVERAGE)
+ * @param sentencesAnalysed Número de sentenças analisadas
+ * @param sentenceCount Número total de sentenças do texto
+ */
 public record Sentiment(
         Label label,
-        double score
+        double score,
+        double averageScore,
+        List<SentenceSentiment> sentences,
+        int sentencesAnalysed,
+        int sentenceCount
 ) {
+
+    public Sentiment(Label label, double score) {
+        this(label, score, score, List.of(), 0, 0);
+    }
+
+    /**
+     * Retorna uma cópia sem os scores por sentença, mantendo as contagens.
+     * @return O Sentiment sem a lista de sentenças.
+     */
+    public Sentiment withoutSentences() {
+        return new Sentiment(label, score, averageScore, List.of(), sentencesAnalysed, sentenceCount);
+    }
 }
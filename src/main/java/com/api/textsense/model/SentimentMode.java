@@ -0,0 +1,22 @@
+package com.api.textsense.model;
+
+/**
+ * Enum que representa os modos de agregação do sentimento.
+ */
+public enum SentimentMode {
+    /**
+     * Média arredondada de todas as sentenças, sem detalhamento.
+     */
+    AVERAGE,
+
+    /**
+     * Score de cada sentença e média ponderada pelo tamanho das sentenças.
+     */
+    DETAILED,
+
+    /**
+     * Como DETAILED, mas interrompe a análise assim que o label final não pode mais mudar
+     * ou quando a amostra configurada de sentenças foi analisada.
+     */
+    SUMMARY
+}
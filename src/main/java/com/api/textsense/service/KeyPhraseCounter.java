@@ -0,0 +1,469 @@
+package com.api.textsense.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Contador de n-gramas baseado em uma trie de ids primitivos.
+ * Cada palavra distinta recebe um id inteiro e cada n-grama é um nó da trie,
+ * de modo que nenhuma String é criada por candidato, apenas por palavra distinta
+ * e pelas frases efetivamente retornadas.
+ */
+final class KeyPhraseCounter {
+
+    private static final int ROOT = 0;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long EMPTY_KEY = -1L;
+
+    // Chave de ranking: cobertura nos 32 bits altos (sem sinal) e id do nó invertido nos 31 bits baixos
+    static final long MAX_SCORE = 0xFFFFFFFFL;
+    private static final int NODE_BITS = 31;
+
+    private final Set<String> stopWords;
+    private final int minWordLength;
+    private final int maxPhraseLength;
+
+    // Dicionário de palavras: tabela de endereçamento aberto indexada pelo hash dos caracteres
+    private String[] words = new String[INITIAL_CAPACITY];
+    private boolean[] stopWordFlags = new boolean[INITIAL_CAPACITY];
+    private int[] wordSlots = newSlots(INITIAL_CAPACITY);
+    private int wordCount = 0;
+
+    // Nós da trie: contagem, palavra, pai e profundidade (tamanho da frase)
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int[] nodeWords = new int[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private int nodeCount = 1;
+
+    // Ocorrências: nó do n-grama e posição da sua última palavra entre as palavras de conteúdo
+    private int[] occurrenceNodes = new int[INITIAL_CAPACITY];
+    private int[] occurrenceEnds = new int[INITIAL_CAPACITY];
+    private int occurrenceCount = 0;
+    private int position = -1;
+
+    // Arestas da trie: chave (pai, palavra) -> filho
+    private long[] edgeKeys = newEdgeKeys(INITIAL_CAPACITY);
+    private int[] edgeChildren = new int[INITIAL_CAPACITY];
+    private int edgeCount = 0;
+
+    KeyPhraseCounter(Set<String> stopWords, int minWordLength, int maxPhraseLength) {
+        this.stopWords = stopWords;
+        this.minWordLength = minWordLength;
+        this.maxPhraseLength = maxPhraseLength;
+    }
+
+    /**
+     * Percorre o texto uma única vez, contando todos os n-gramas (até maxPhraseLength palavras)
+     * contidos em trechos delimitados por stop words, palavras curtas ou pontuação.
+     *
+     * @param text O texto para análise
+     */
+    void count(String text) {
+        // active[k] é o nó do n-grama de tamanho k que termina na palavra anterior
+        int[] active = new int[maxPhraseLength + 1];
+        int activeLength = 0;
+        boolean boundary = true;
+
+        int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (!isAsciiLetter(c)) {
+                if (!Character.isWhitespace(c)) {
+                    boundary = true;
+                }
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < length && isAsciiLetter(text.charAt(i))) {
+                i++;
+            }
+
+            int wordLength = i - start;
+            if (wordLength < minWordLength) {
+                boundary = true;
+                continue;
+            }
+
+            int word = internWord(text, start, wordLength);
+            if (stopWordFlags[word]) {
+                boundary = true;
+                continue;
+            }
+
+            if (boundary) {
+                activeLength = 0;
+                boundary = false;
+            }
+
+            position++;
+
+            int limit = Math.min(activeLength, maxPhraseLength - 1);
+            for (int k = limit; k >= 0; k--) {
+                int parent = k == 0 ? ROOT : active[k];
+                int child = childOf(parent, word);
+                counts[child]++;
+                addOccurrence(child);
+                active[k + 1] = child;
+            }
+            activeLength = limit + 1;
+        }
+    }
+
+    /**
+     * Retorna as frases mais relevantes, ordenadas pela cobertura (ocorrências livres x tamanho).
+     * A seleção é gulosa: cada frase escolhida marca as palavras das suas ocorrências como cobertas,
+     * e as demais frases passam a contar apenas as ocorrências que não tocam palavras cobertas.
+     * Os candidatos ficam em um heap e só são recalculados quando chegam ao topo, já que a cobertura
+     * de uma frase só diminui; uma frase é descartada quando não resta nenhuma ocorrência livre.
+     *
+     * @param maxPhrases Número máximo de frases a retornar
+     * @return Lista com as frases mais relevantes
+     */
+    List<String> top(int maxPhrases) {
+        int candidates = nodeCount - 1;
+
+        // Agrupa as posições finais das ocorrências por nó (offsets[node] até offsets[node + 1])
+        int[] offsets = new int[nodeCount + 1];
+        for (int node = 1; node < nodeCount; node++) {
+            offsets[node + 1] = offsets[node] + counts[node];
+        }
+
+        int[] ends = new int[occurrenceCount];
+        int[] next = Arrays.copyOf(offsets, nodeCount);
+        for (int o = 0; o < occurrenceCount; o++) {
+            ends[next[occurrenceNodes[o]]++] = occurrenceEnds[o];
+        }
+
+        long[] heap = new long[candidates];
+        for (int node = 1; node < nodeCount; node++) {
+            heap[node - 1] = rankingKey((long) counts[node] * depths[node], node);
+        }
+
+        int heapSize = candidates;
+        for (int h = heapSize / 2 - 1; h >= 0; h--) {
+            siftDown(heap, heapSize, h);
+        }
+
+        boolean[] covered = new boolean[position + 1];
+        int limit = Math.min(maxPhrases, candidates);
+        List<String> phrases = new ArrayList<>(limit);
+
+        while (heapSize > 0 && phrases.size() < limit) {
+            long key = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, 0);
+
+            int node = nodeOf(key);
+            int free = freeOccurrences(node, ends, offsets, covered);
+
+            if (free == 0) {
+                continue;
+            }
+
+            long current = rankingKey((long) free * depths[node], node);
+
+            if (current < key) {
+                // Cobertura diminuiu desde que o nó entrou no heap: reinsere com o valor atualizado
+                heap[heapSize] = current;
+                siftUp(heap, heapSize++);
+                continue;
+            }
+
+            cover(node, ends, offsets, covered);
+            phrases.add(toPhrase(node));
+        }
+
+        return phrases;
+    }
+
+    /**
+     * Retorna o número de n-gramas distintos contados.
+     *
+     * @return Número de frases candidatas
+     */
+    int size() {
+        return nodeCount - 1;
+    }
+
+    /**
+     * Monta a chave de ranking: maior cobertura primeiro e, no empate, o nó criado antes.
+     * A cobertura satura em MAX_SCORE, o que só ocorre com bilhões de palavras cobertas
+     * por uma mesma frase; a partir daí o desempate passa a ser apenas a ordem de criação.
+     *
+     * @param score Cobertura da frase (frequência x tamanho)
+     * @param node Id do nó da trie
+     * @return Chave ordenável de forma crescente
+     */
+    static long rankingKey(long score, int node) {
+        return (Math.min(score, MAX_SCORE) << NODE_BITS) | (Integer.MAX_VALUE - node);
+    }
+
+    /**
+     * Extrai o id do nó de uma chave montada por rankingKey.
+     *
+     * @param key Chave de ranking
+     * @return Id do nó da trie
+     */
+    static int nodeOf(long key) {
+        return Integer.MAX_VALUE - (int) (key & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Conta as ocorrências do nó que não tocam palavras cobertas nem se sobrepõem entre si,
+     * percorrendo-as em ordem de posição.
+     */
+    private int freeOccurrences(int node, int[] ends, int[] offsets, boolean[] covered) {
+        int free = 0;
+        int lastEnd = -1;
+
+        for (int o = offsets[node]; o < offsets[node + 1]; o++) {
+            if (isFree(ends[o], depths[node], lastEnd, covered)) {
+                free++;
+                lastEnd = ends[o];
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Marca como cobertas as palavras das mesmas ocorrências contadas por freeOccurrences.
+     */
+    private void cover(int node, int[] ends, int[] offsets, boolean[] covered) {
+        int lastEnd = -1;
+
+        for (int o = offsets[node]; o < offsets[node + 1]; o++) {
+            if (isFree(ends[o], depths[node], lastEnd, covered)) {
+                Arrays.fill(covered, ends[o] - depths[node] + 1, ends[o] + 1, true);
+                lastEnd = ends[o];
+            }
+        }
+    }
+
+    private static boolean isFree(int end, int depth, int lastEnd, boolean[] covered) {
+        int start = end - depth + 1;
+
+        if (start <= lastEnd) {
+            return false;
+        }
+
+        for (int p = start; p <= end; p++) {
+            if (covered[p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void siftDown(long[] heap, int size, int index) {
+        long key = heap[index];
+
+        while (index < size / 2) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= key) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void addOccurrence(int node) {
+        if (occurrenceCount == occurrenceNodes.length) {
+            int capacity = occurrenceCount * 2;
+            occurrenceNodes = Arrays.copyOf(occurrenceNodes, capacity);
+            occurrenceEnds = Arrays.copyOf(occurrenceEnds, capacity);
+        }
+
+        occurrenceNodes[occurrenceCount] = node;
+        occurrenceEnds[occurrenceCount] = position;
+        occurrenceCount++;
+    }
+
+    private int[] wordsOf(int node) {
+        int[] sequence = new int[depths[node]];
+        for (int n = node, k = sequence.length - 1; n != ROOT; n = parents[n], k--) {
+            sequence[k] = nodeWords[n];
+        }
+        return sequence;
+    }
+
+    private String toPhrase(int node) {
+        StringBuilder phrase = new StringBuilder();
+        for (int word : wordsOf(node)) {
+            if (!phrase.isEmpty()) {
+                phrase.append(' ');
+            }
+            phrase.append(words[word]);
+        }
+        return phrase.toString();
+    }
+
+    private int internWord(String text, int start, int wordLength) {
+        int hash = 0;
+        for (int i = start; i < start + wordLength; i++) {
+            hash = 31 * hash + Character.toLowerCase(text.charAt(i));
+        }
+
+        int mask = wordSlots.length - 1;
+        int slot = mix(hash) & mask;
+
+        while (wordSlots[slot] != -1) {
+            int candidate = wordSlots[slot];
+            String word = words[candidate];
+            if (word.length() == wordLength && word.regionMatches(true, 0, text, start, wordLength)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Primeira ocorrência da palavra: único ponto em que uma String é criada
+        String word = text.substring(start, start + wordLength).toLowerCase();
+        int id = wordCount++;
+
+        if (id == words.length) {
+            words = Arrays.copyOf(words, id * 2);
+            stopWordFlags = Arrays.copyOf(stopWordFlags, id * 2);
+        }
+        words[id] = word;
+        stopWordFlags[id] = stopWords.contains(word);
+        wordSlots[slot] = id;
+
+        if (wordCount * 2 > wordSlots.length) {
+            rehashWords();
+        }
+
+        return id;
+    }
+
+    private void rehashWords() {
+        int[] slots = newSlots(wordSlots.length * 2);
+        int mask = slots.length - 1;
+
+        for (int id = 0; id < wordCount; id++) {
+            int slot = mix(words[id].hashCode()) & mask;
+            while (slots[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+
+        wordSlots = slots;
+    }
+
+    private int childOf(int parent, int word) {
+        long key = ((long) parent << 32) | word;
+        int mask = edgeKeys.length - 1;
+        int slot = mix(key) & mask;
+
+        while (edgeKeys[slot] != EMPTY_KEY) {
+            if (edgeKeys[slot] == key) {
+                return edgeChildren[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int child = newNode(parent, word);
+        edgeKeys[slot] = key;
+        edgeChildren[slot] = child;
+        edgeCount++;
+
+        if (edgeCount * 2 > edgeKeys.length) {
+            rehashEdges();
+        }
+
+        return child;
+    }
+
+    private int newNode(int parent, int word) {
+        int node = nodeCount++;
+
+        if (node == counts.length) {
+            int capacity = node * 2;
+            counts = Arrays.copyOf(counts, capacity);
+            nodeWords = Arrays.copyOf(nodeWords, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            depths = Arrays.copyOf(depths, capacity);
+        }
+
+        nodeWords[node] = word;
+        parents[node] = parent;
+        depths[node] = depths[parent] + 1;
+
+        return node;
+    }
+
+    private void rehashEdges() {
+        long[] keys = newEdgeKeys(edgeKeys.length * 2);
+        int[] children = new int[keys.length];
+        int mask = keys.length - 1;
+
+        for (int old = 0; old < edgeKeys.length; old++) {
+            long key = edgeKeys[old];
+            if (key == EMPTY_KEY) {
+                continue;
+            }
+
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            children[slot] = edgeChildren[old];
+        }
+
+        edgeKeys = keys;
+        edgeChildren = children;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int mix(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key ^ (key >>> 32));
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, -1);
+        return slots;
+    }
+
+    private static long[] newEdgeKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        return keys;
+    }
+}
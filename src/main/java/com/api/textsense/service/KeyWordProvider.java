@@ -37,6 +37,8 @@ public class KeyWordProvider {
     private static final Pattern WORD_PATTERN = Pattern.compile("[a-zA-Z]+");
     private static final int DEFAULT_MAX_KEYWORDS = 10;
     private static final int MIN_WORD_LENGTH = 3;
+    private static final int DEFAULT_MAX_PHRASE_LENGTH = 3;
+    private static final int MAX_PHRASE_LENGTH = 8;
 
     /**
      * Extrai as palavras-chave mais utilizadas do texto.
@@ -96,6 +98,59 @@ public class KeyWordProvider {
         return keywords;
     }
 
+    /**
+     * Extrai as frases-chave mais relevantes do texto.
+     * Método simplificado que retorna as top 10 frases de até 3 palavras.
+     *
+     * @param text O texto para análise
+     * @return Lista com as 10 frases-chave mais relevantes
+     * @throws IllegalArgumentException se o texto for nulo ou vazio
+     */
+    public List<String> phrasesOf(@NotBlank String text) {
+        return extractKeyPhrases(text, DEFAULT_MAX_KEYWORDS, DEFAULT_MAX_PHRASE_LENGTH);
+    }
+
+    /**
+     * Extrai frases-chave (n-gramas delimitados por stop words e pontuação) do texto fornecido.
+     * As frases são ranqueadas pela frequência multiplicada pelo número de palavras,
+     * contando apenas as ocorrências que não se sobrepõem a uma frase já selecionada.
+     * A contagem é linear no tamanho do texto e não cria uma String por candidato.
+     * O tamanho da frase é limitado a 8 palavras: a memória das ocorrências cresce com
+     * palavras x tamanho e a seleção com palavras x tamanho², e frases maiores raramente são úteis.
+     *
+     * @param text O texto para análise
+     * @param maxPhrases Número máximo de frases a retornar
+     * @param maxPhraseLength Número máximo de palavras por frase (1 a 8)
+     * @return Lista com as frases-chave mais relevantes
+     * @throws IllegalArgumentException se o texto for nulo ou vazio, ou se os limites forem inválidos
+     */
+    public List<String> extractKeyPhrases(@NotBlank String text, int maxPhrases, int maxPhraseLength) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("O texto não pode ser nulo ou vazio");
+        }
+
+        if (maxPhrases < 1) {
+            throw new IllegalArgumentException("O número de frases-chave deve ser maior que zero");
+        }
+
+        if (maxPhraseLength < 1 || maxPhraseLength > MAX_PHRASE_LENGTH) {
+            throw new IllegalArgumentException(
+                    "O tamanho máximo da frase deve estar entre 1 e " + MAX_PHRASE_LENGTH + " palavras");
+        }
+
+        logger.debug("Extraindo até {} frases-chave de até {} palavras (comprimento: {})",
+                maxPhrases, maxPhraseLength, text.length());
+
+        KeyPhraseCounter counter = new KeyPhraseCounter(STOP_WORDS, MIN_WORD_LENGTH, maxPhraseLength);
+        counter.count(text);
+
+        List<String> phrases = counter.top(maxPhrases);
+
+        logger.info("Extraídas {} frases-chave de {} candidatas", phrases.size(), counter.size());
+
+        return phrases;
+    }
+
     /**
      * Extrai palavras-chave com suas frequências.
      *
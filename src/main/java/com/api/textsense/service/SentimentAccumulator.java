@@ -0,0 +1,69 @@
+package com.api.textsense.service;
+
+/**
+ * Acumula os scores das sentenças ponderados por um peso (1 por sentença ou número de tokens)
+ * e decide quando o label final não pode mais mudar dentro do orçamento de peso.
+ */
+final class SentimentAccumulator {
+
+    private static final int MAX_SCORE = 4;
+    private static final double NEUTRAL_SCORE = 2.0;
+
+    private double weightedScore = 0.0;
+    private int scoredWeight = 0;
+    private int remainingWeight;
+
+    /**
+     * @param budgetWeight Peso total das sentenças sobre as quais o label final é calculado
+     */
+    SentimentAccumulator(int budgetWeight) {
+        this.remainingWeight = budgetWeight;
+    }
+
+    /**
+     * Registra o score de uma sentença, retirando seu peso do orçamento restante.
+     *
+     * @param score Score da sentença (0-4)
+     * @param weight Peso da sentença
+     * @throws IllegalStateException se o peso ultrapassar o orçamento declarado
+     */
+    void add(int score, int weight) {
+        if (weight > remainingWeight) {
+            throw new IllegalStateException(
+                    "Peso da sentença (" + weight + ") excede o orçamento restante (" + remainingWeight + ")");
+        }
+
+        weightedScore += (double) score * weight;
+        scoredWeight += weight;
+        remainingWeight -= weight;
+    }
+
+    /**
+     * Verifica se o label final já está definido: mesmo que todo o peso restante
+     * recebesse o score mínimo (0) ou máximo (4), a média ponderada arredondada não mudaria.
+     * Como a média parcial sempre está dentro desse intervalo, ela já tem o label final.
+     *
+     * @return true se o label não pode mais mudar
+     */
+    boolean isSettled() {
+        int totalWeight = scoredWeight + remainingWeight;
+
+        if (totalWeight == 0) {
+            return true;
+        }
+
+        long lowest = Math.round(weightedScore / totalWeight);
+        long highest = Math.round((weightedScore + (double) MAX_SCORE * remainingWeight) / totalWeight);
+
+        return lowest == highest;
+    }
+
+    /**
+     * Retorna a média dos scores ponderada pelo peso já analisado.
+     *
+     * @return Score ponderado de 0 a 4, ou 2 (Neutral) se nenhuma sentença foi analisada
+     */
+    double score() {
+        return scoredWeight > 0 ? weightedScore / scoredWeight : NEUTRAL_SCORE;
+    }
+}
@@ -0,0 +1,112 @@
+package com.api.textsense.service;
+
+import com.api.textsense.model.Label;
+import com.api.textsense.model.SentenceSentiment;
+import com.api.textsense.model.Sentiment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Agrega os scores das sentenças em um Sentiment.
+ * O score de cada sentença é obtido sob demanda pela função scorer, de modo que
+ * sentenças não analisadas (amostra atingida ou label definido) não custam nada.
+ *
+ * @param <S> Tipo da sentença
+ */
+final class SentimentAggregator<S> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SentimentAggregator.class);
+
+    private final Function<S, String> text;
+    private final ToIntFunction<S> tokenCount;
+    private final ToIntFunction<S> scorer;
+
+    /**
+     * @param text Texto da sentença
+     * @param tokenCount Número de tokens da sentença
+     * @param scorer Score da sentença (0-4)
+     */
+    SentimentAggregator(Function<S, String> text, ToIntFunction<S> tokenCount, ToIntFunction<S> scorer) {
+        this.text = text;
+        this.tokenCount = tokenCount;
+        this.scorer = scorer;
+    }
+
+    /**
+     * Média simples de todas as sentenças, cada uma com o mesmo peso.
+     *
+     * @param sentences Sentenças do texto
+     * @return Sentiment com o score arredondado, a média e os scores por sentença
+     */
+    Sentiment average(List<S> sentences) {
+        return aggregate(sentences, sentences.size(), false, false);
+    }
+
+    /**
+     * Média de todas as sentenças ponderada pelo número de tokens.
+     *
+     * @param sentences Sentenças do texto
+     * @return Sentiment com o score arredondado, a média ponderada e os scores por sentença
+     */
+    Sentiment weighted(List<S> sentences) {
+        return aggregate(sentences, sentences.size(), true, false);
+    }
+
+    /**
+     * Média ponderada pelo número de tokens das primeiras maxSentences sentenças,
+     * interrompida assim que o label final não pode mais mudar dentro dessa amostra.
+     *
+     * @param sentences Sentenças do texto
+     * @param maxSentences Número máximo de sentenças a analisar
+     * @return Sentiment com o score arredondado, a média ponderada e os scores das sentenças analisadas
+     */
+    Sentiment summary(List<S> sentences, int maxSentences) {
+        return aggregate(sentences, Math.min(maxSentences, sentences.size()), true, true);
+    }
+
+    private Sentiment aggregate(List<S> sentences, int sample, boolean weightByTokens, boolean earlyExit) {
+        List<S> sampled = sentences.subList(0, sample);
+
+        // O label final é calculado apenas sobre a amostra, então o orçamento considera só ela
+        int budget = 0;
+        for (S sentence : sampled) {
+            budget += weightByTokens ? tokenCount.applyAsInt(sentence) : 1;
+        }
+
+        SentimentAccumulator accumulator = new SentimentAccumulator(budget);
+        List<SentenceSentiment> scored = new ArrayList<>(sample);
+
+        for (S sentence : sampled) {
+            if (earlyExit && !scored.isEmpty() && accumulator.isSettled()) {
+                logger.debug("Label definido após {} de {} sentenças da amostra", scored.size(), sample);
+                break;
+            }
+
+            int sentenceScore = scorer.applyAsInt(sentence);
+            int tokens = tokenCount.applyAsInt(sentence);
+            String sentenceText = text.apply(sentence);
+
+            accumulator.add(sentenceScore, weightByTokens ? tokens : 1);
+            scored.add(new SentenceSentiment(sentenceText, Label.fromScore(sentenceScore), sentenceScore, tokens));
+
+            logger.debug("Sentença: '{}' | Score: {} | Tokens: {}",
+                    sentenceText.substring(0, Math.min(50, sentenceText.length())),
+                    sentenceScore,
+                    tokens);
+        }
+
+        double averageScore = accumulator.score();
+        int finalScore = Math.max(0, Math.min(4, (int) Math.round(averageScore)));
+        Label finalLabel = Label.fromScore(finalScore);
+
+        logger.info("Análise concluída: {} de {} sentenças | Score médio: {} | Label: {}",
+                scored.size(), sentences.size(), averageScore, finalLabel);
+
+        return new Sentiment(finalLabel, finalScore, averageScore, List.copyOf(scored), scored.size(), sentences.size());
+    }
+}
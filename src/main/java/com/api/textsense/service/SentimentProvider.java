@@ -14,14 +14,32 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Function;
 
 @Component
 public class SentimentProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(SentimentProvider.class);
 
+    private static final int DEFAULT_SUMMARY_SAMPLE = 5;
+
     private StanfordCoreNLP pipeline;
 
+    // Apenas separa as sentenças, sem o custo do parser
+    private StanfordCoreNLP splitPipeline;
+
+    // Analisa um único trecho como uma sentença, permitindo interromper a análise entre sentenças
+    private StanfordCoreNLP sentencePipeline;
+
+    // Sentenças já analisadas pelo pipeline completo
+    private final SentimentAggregator<CoreSentence> annotatedSentences = new SentimentAggregator<>(
+            CoreSentence::text, sentence -> sentence.tokens().size(),
+            sentence -> convertSentimentToScore(sentence.sentiment()));
+
+    // Sentenças apenas separadas, analisadas uma a uma sob demanda
+    private final SentimentAggregator<CoreSentence> isolatedSentences = new SentimentAggregator<>(
+            CoreSentence::text, sentence -> sentence.tokens().size(), this::scoreInIsolation);
+
     @PostConstruct
     public void initModel() {
         try {
@@ -32,6 +50,16 @@ public class SentimentProvider {
             props.setProperty("sentiment.model", "edu/stanford/nlp/models/sentiment/sentiment.ser.gz");
 
             this.pipeline = new StanfordCoreNLP(props);
+
+            Properties splitProps = new Properties();
+            splitProps.setProperty("annotators", "tokenize,ssplit");
+            this.splitPipeline = new StanfordCoreNLP(splitProps);
+
+            Properties sentenceProps = new Properties();
+            sentenceProps.putAll(props);
+            sentenceProps.setProperty("ssplit.isOneSentence", "true");
+            this.sentencePipeline = new StanfordCoreNLP(sentenceProps);
+
             logger.info("Pipeline de sentimento carregado com sucesso!");
         } catch (Exception e) {
             logger.error("Erro ao inicializar o pipeline de sentimento", e);
@@ -47,7 +75,7 @@ public class SentimentProvider {
     }
 
     /**
-     * Analisa o sentimento de todas as sentenças do texto e retorna uma média ponderada.
+     * Analisa o sentimento de todas as sentenças do texto e retorna a média simples.
      *
      * @param text O texto em inglês para analisar
      * @return Um objeto Sentiment com o score médio (0-4) e Label correspondente
@@ -55,17 +83,74 @@ public class SentimentProvider {
      * @throws IllegalStateException se o pipeline não estiver inicializado
      */
     public Sentiment of(String text) {
+        return analyse(text, this.pipeline, annotatedSentences::average).withoutSentences();
+    }
+
+    /**
+     * Analisa o sentimento de cada sentença do texto e retorna uma média ponderada
+     * pelo número de tokens de cada sentença, junto com o score individual das sentenças.
+     *
+     * @param text O texto em inglês para analisar
+     * @return Um objeto Sentiment com o score (0-4), a média ponderada, Label e scores por sentença
+     * @throws IllegalArgumentException se o texto for nulo ou vazio
+     * @throws IllegalStateException se o pipeline não estiver inicializado
+     */
+    public Sentiment detailed(String text) {
+        return analyse(text, this.pipeline, annotatedSentences::weighted);
+    }
+
+    /**
+     * Analisa o sentimento com a amostra padrão de 5 sentenças.
+     *
+     * @param text O texto em inglês para analisar
+     * @return Um objeto Sentiment com o score (0-4), a média ponderada, Label e scores das sentenças analisadas
+     * @throws IllegalArgumentException se o texto for nulo ou vazio
+     * @throws IllegalStateException se o pipeline não estiver inicializado
+     */
+    public Sentiment summary(String text) {
+        return summary(text, DEFAULT_SUMMARY_SAMPLE);
+    }
+
+    /**
+     * Analisa o sentimento das primeiras maxSentences sentenças, uma a uma, interrompendo a análise
+     * assim que o label final não pode mais mudar, mesmo que as sentenças restantes da amostra
+     * sejam todas Very Negative ou Very Positive.
+     *
+     * @param text O texto em inglês para analisar
+     * @param maxSentences Número máximo de sentenças a analisar
+     * @return Um objeto Sentiment com o score (0-4), a média ponderada, Label e scores das sentenças analisadas
+     * @throws IllegalArgumentException se o texto for nulo ou vazio, ou se maxSentences for menor que 1
+     * @throws IllegalStateException se o pipeline não estiver inicializado
+     */
+    public Sentiment summary(String text, int maxSentences) {
+        if (maxSentences < 1) {
+            throw new IllegalArgumentException("O número de sentenças da amostra deve ser maior que zero");
+        }
+
+        return analyse(text, this.splitPipeline, sentences -> isolatedSentences.summary(sentences, maxSentences));
+    }
+
+    /**
+     * Anota o texto com o pipeline informado e agrega as sentenças resultantes.
+     *
+     * @param text O texto em inglês para analisar
+     * @param annotatingPipeline Pipeline usado para separar (e, se for o caso, analisar) as sentenças
+     * @param aggregation Agregação das sentenças anotadas
+     * @return O Sentiment agregado, ou NEUTRAL se nenhuma sentença for detectada
+     */
+    private Sentiment analyse(String text, StanfordCoreNLP annotatingPipeline,
+                              Function<List<CoreSentence>, Sentiment> aggregation) {
         if (text == null || text.trim().isEmpty()) {
             throw new IllegalArgumentException("O texto não pode ser nulo ou vazio");
         }
 
-        if (this.pipeline == null) {
+        if (annotatingPipeline == null || this.sentencePipeline == null) {
             throw new IllegalStateException("Pipeline de sentimento não inicializado");
         }
 
         try {
             CoreDocument document = new CoreDocument(text);
-            this.pipeline.annotate(document);
+            annotatingPipeline.annotate(document);
 
             List<CoreSentence> sentences = document.sentences();
 
@@ -74,31 +159,7 @@ public class SentimentProvider {
                 return new Sentiment(Label.NEUTRAL, 2);
             }
 
-            double totalScore = 0.0;
-            int sentenceCount = sentences.size();
-
-            for (CoreSentence sentence : sentences) {
-                String sentiment = sentence.sentiment();
-                int sentenceScore = convertSentimentToScore(sentiment);
-                totalScore += sentenceScore;
-
-                logger.debug("Sentença: '{}' | Sentiment: {} | Score: {}",
-                        sentence.text().substring(0, Math.min(50, sentence.text().length())),
-                        sentiment,
-                        sentenceScore);
-            }
-
-            double averageScore = totalScore / sentenceCount;
-            int finalScore = (int) Math.round(averageScore);
-
-            finalScore = Math.max(0, Math.min(4, finalScore));
-
-            Label finalLabel = convertScoreToLabel(finalScore);
-
-            logger.info("Análise concluída: {} sentenças | Score médio: {} | Label: {}",
-                    sentenceCount, finalScore, finalLabel);
-
-            return new Sentiment(finalLabel, finalScore);
+            return aggregation.apply(sentences);
 
         } catch (Exception e) {
             logger.error("Erro ao analisar sentimento do texto", e);
@@ -106,6 +167,21 @@ public class SentimentProvider {
         }
     }
 
+    /**
+     * Analisa uma sentença isoladamente, sem depender da anotação do texto completo.
+     *
+     * @param sentence Sentença separada pelo splitPipeline
+     * @return Score numérico de 0 a 4
+     */
+    private int scoreInIsolation(CoreSentence sentence) {
+        CoreDocument sentenceDocument = new CoreDocument(sentence.text());
+        this.sentencePipeline.annotate(sentenceDocument);
+
+        return sentenceDocument.sentences().isEmpty()
+                ? convertSentimentToScore(null)
+                : convertSentimentToScore(sentenceDocument.sentences().get(0).sentiment());
+    }
+
     /**
      * Converte a string de sentimento retornada pelo Stanford NLP para score numérico.
      *
@@ -129,24 +205,4 @@ public class SentimentProvider {
             }
         };
     }
-
-    /**
-     * Converte o score numérico (0-4) para o Enum Label.
-     *
-     * @param score Score numérico de 0 a 4
-     * @return Label correspondente
-     */
-    private Label convertScoreToLabel(int score) {
-        return switch (score) {
-            case 0 -> Label.VERY_NEGATIVE;
-            case 1 -> Label.NEGATIVE;
-            case 2 -> Label.NEUTRAL;
-            case 3 -> Label.POSITIVE;
-            case 4 -> Label.VERY_POSITIVE;
-            default -> {
-                logger.warn("Score fora do intervalo esperado: {}. Usando NEUTRAL.", score);
-                yield Label.NEUTRAL;
-            }
-        };
-    }
 }
\ No newline at end of file
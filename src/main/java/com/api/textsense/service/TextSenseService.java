@@ -23,9 +23,23 @@ public class TextSenseService {
 
     public TextSense analyse(TextSenseRequest textSenseRequest){
         Statistics statistics = statisticsProvider.of(textSenseRequest.text());
-        Sentiment sentiment = sentimentProvider.of(textSenseRequest.text());
-        List<String> keywords = keyWordProvider.of(textSenseRequest.text());
+        Sentiment sentiment = analyseSentiment(textSenseRequest);
+        List<String> keywords = textSenseRequest.isKeyPhrases()
+                ? keyWordProvider.phrasesOf(textSenseRequest.text())
+                : keyWordProvider.of(textSenseRequest.text());
 
         return new TextSense(statistics, sentiment, keywords);
     }
+
+    private Sentiment analyseSentiment(TextSenseRequest textSenseRequest) {
+        String text = textSenseRequest.text();
+
+        return switch (textSenseRequest.sentimentModeOrDefault()) {
+            case AVERAGE -> sentimentProvider.of(text);
+            case DETAILED -> sentimentProvider.detailed(text);
+            case SUMMARY -> textSenseRequest.sentimentSample() != null
+                    ? sentimentProvider.summary(text, textSenseRequest.sentimentSample())
+                    : sentimentProvider.summary(text);
+        };
+    }
 }
@@ -0,0 +1,49 @@
+package com.api.textsense.dto.request;
+
+import com.api.textsense.model.SentimentMode;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextSenseRequestTest {
+
+    private static final String TEXT = "The product is great.";
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void acceptsSampleInSummaryMode() {
+        TextSenseRequest request = new TextSenseRequest(TEXT, null, SentimentMode.SUMMARY, 3);
+
+        assertTrue(request.isSentimentSampleAllowed());
+        assertTrue(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void rejectsSampleWithoutSummaryMode() {
+        TextSenseRequest withoutMode = new TextSenseRequest(TEXT, null, null, 3);
+        TextSenseRequest detailed = new TextSenseRequest(TEXT, null, SentimentMode.DETAILED, 3);
+
+        assertFalse(withoutMode.isSentimentSampleAllowed());
+        assertFalse(detailed.isSentimentSampleAllowed());
+        assertEquals(1, validator.validate(withoutMode).size());
+        assertEquals(1, validator.validate(detailed).size());
+    }
+
+    @Test
+    void acceptsMissingSampleInAnyMode() {
+        for (SentimentMode mode : SentimentMode.values()) {
+            assertTrue(validator.validate(new TextSenseRequest(TEXT, null, mode, null)).isEmpty());
+        }
+        assertTrue(validator.validate(new TextSenseRequest(TEXT, null, null, null)).isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveSample() {
+        assertEquals(1, validator.validate(new TextSenseRequest(TEXT, null, SentimentMode.SUMMARY, 0)).size());
+    }
+}
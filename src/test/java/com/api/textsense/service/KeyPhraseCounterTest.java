@@ -0,0 +1,142 @@
+package com.api.textsense.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyPhraseCounterTest {
+
+    private static final Set<String> STOP_WORDS = Set.of("the", "and", "to", "was");
+
+    private static KeyPhraseCounter count(String text, int maxPhraseLength) {
+        KeyPhraseCounter counter = new KeyPhraseCounter(STOP_WORDS, 3, maxPhraseLength);
+        counter.count(text);
+        return counter;
+    }
+
+    private static String distinctWords(int size) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            text.append('x').append((char) ('a' + i / 26)).append((char) ('a' + i % 26)).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    @Test
+    void splitsPhrasesAtStopWordsShortWordsAndPunctuation() {
+        KeyPhraseCounter counter = count("great coffee, fresh bread and warm soup ok hot tea", 3);
+
+        assertEquals(List.of("great coffee", "fresh bread", "warm soup", "hot tea"), counter.top(10));
+    }
+
+    @Test
+    void doesNotReturnSlidingWindowsOfLongRuns() {
+        KeyPhraseCounter counter = count(
+                "Fast delivery speed impressed everyone; excellent product packaging quality", 3);
+
+        assertEquals(
+                List.of("fast delivery speed", "excellent product packaging", "impressed everyone", "quality"),
+                counter.top(10));
+    }
+
+    @Test
+    void suppressesPhrasesOverlappingAnySelectedOccurrence() {
+        KeyPhraseCounter counter = count("customer service team helped. customer service team called.", 3);
+
+        assertEquals(List.of("customer service team", "helped", "called"), counter.top(10));
+    }
+
+    @Test
+    void keepsFrequentPhraseWhenOnlySomeOccurrencesOverlapSelectedPhrase() {
+        KeyPhraseCounter counter = count("customer service quality. customer service rocks. "
+                + "customer service helps. customer service wins. "
+                + "service quality. service quality. service quality. service quality.", 3);
+
+        assertEquals(
+                List.of("service quality", "customer service", "customer", "rocks", "helps", "wins"),
+                counter.top(10));
+    }
+
+    @Test
+    void doesNotCountSelfOverlappingOccurrencesTwice() {
+        // "abc abc" aparece duas vezes, mas as ocorrências se sobrepõem: só uma é livre
+        KeyPhraseCounter counter = count("abc abc abc", 3);
+
+        assertEquals(List.of("abc"), counter.top(10));
+    }
+
+    @Test
+    void foldsCaseWhenInterningWords() {
+        KeyPhraseCounter counter = count("Abc. ABC. abc.", 3);
+
+        assertEquals(1, counter.size());
+        assertEquals(List.of("abc"), counter.top(10));
+    }
+
+    @Test
+    void returnsEmptyForStopWordsOnly() {
+        KeyPhraseCounter counter = count("The and to was. A is", 3);
+
+        assertEquals(0, counter.size());
+        assertEquals(List.of(), counter.top(10));
+    }
+
+    @Test
+    void growsTablesPastInitialCapacity() {
+        String run = distinctWords(300);
+        KeyPhraseCounter counter = count(run + ". " + run, 3);
+
+        assertEquals(300 + 299 + 298, counter.size());
+        assertEquals(List.of("xaa xab xac"), counter.top(1));
+    }
+
+    @Test
+    void growsWordTableWithSingleWordRuns() {
+        String words = distinctWords(300).replace(' ', '.') + ". xln";
+        KeyPhraseCounter counter = count(words, 3);
+
+        assertEquals(300, counter.size());
+        assertEquals(List.of("xln"), counter.top(1));
+    }
+
+    @Test
+    void returnsOnlySingleWordsWhenMaxPhraseLengthIsOne() {
+        KeyPhraseCounter counter = count("customer service team. customer support", 1);
+
+        assertEquals(4, counter.size());
+        assertEquals(List.of("customer", "service", "team", "support"), counter.top(10));
+    }
+
+    @Test
+    void capsPhrasesAtMaxPhraseLength() {
+        KeyPhraseCounter counter = count(distinctWords(20), 8);
+
+        List<String> phrases = counter.top(3);
+
+        assertEquals(3, phrases.size());
+        assertEquals("xaa xab xac xad xae xaf xag xah", phrases.get(0));
+        assertEquals(8, phrases.get(1).split(" ").length);
+        assertEquals(4, phrases.get(2).split(" ").length);
+    }
+
+    @Test
+    void rankingKeyOrdersByScoreThenCreationOrder() {
+        assertTrue(KeyPhraseCounter.rankingKey(10, 1) > KeyPhraseCounter.rankingKey(9, 1));
+        assertTrue(KeyPhraseCounter.rankingKey(10, 1) > KeyPhraseCounter.rankingKey(10, 2));
+        assertEquals(123_456_789, KeyPhraseCounter.nodeOf(KeyPhraseCounter.rankingKey(42, 123_456_789)));
+        assertEquals(1, KeyPhraseCounter.nodeOf(KeyPhraseCounter.rankingKey(KeyPhraseCounter.MAX_SCORE, 1)));
+    }
+
+    @Test
+    void rankingKeyClampsScoreAboveMaxScore() {
+        long clamped = KeyPhraseCounter.rankingKey(KeyPhraseCounter.MAX_SCORE + 1_000, 7);
+
+        assertEquals(KeyPhraseCounter.rankingKey(KeyPhraseCounter.MAX_SCORE, 7), clamped);
+        assertTrue(clamped > 0);
+        assertEquals(7, KeyPhraseCounter.nodeOf(clamped));
+    }
+}
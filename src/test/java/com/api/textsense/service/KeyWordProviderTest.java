@@ -0,0 +1,43 @@
+package com.api.textsense.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyWordProviderTest {
+
+    private final KeyWordProvider keyWordProvider = new KeyWordProvider();
+
+    @Test
+    void extractsKeyPhrasesBoundedByDefaultStopWords() {
+        List<String> phrases = keyWordProvider.phrasesOf(
+                "The customer service team was great, and the customer service team was fast.");
+
+        assertEquals(List.of("customer service team", "great", "fast"), phrases);
+    }
+
+    @Test
+    void acceptsMaxPhraseLengthLimits() {
+        assertEquals(List.of("customer", "service"),
+                keyWordProvider.extractKeyPhrases("customer service", 10, 1));
+        assertEquals(List.of("customer service"),
+                keyWordProvider.extractKeyPhrases("customer service", 10, 8));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> keyWordProvider.extractKeyPhrases(" ", 10, 3));
+        assertThrows(IllegalArgumentException.class, () -> keyWordProvider.extractKeyPhrases("text", 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> keyWordProvider.extractKeyPhrases("text", 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> keyWordProvider.extractKeyPhrases("text", 10, 9));
+    }
+
+    @Test
+    void returnsEmptyListWhenTextHasOnlyStopWords() {
+        assertTrue(keyWordProvider.extractKeyPhrases("the and of to", 10, 3).isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package com.api.textsense.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SentimentAccumulatorTest {
+
+    @Test
+    void isNotSettledWhenRemainingTokensCanMoveRoundingAcrossHalf() {
+        SentimentAccumulator accumulator = new SentimentAccumulator(10);
+
+        // Intervalo possível [24/10, 32/10] = [2.4, 3.2] cruza 2.5
+        accumulator.add(3, 8);
+
+        assertFalse(accumulator.isSettled());
+    }
+
+    @Test
+    void isSettledWhenLowerBoundSitsExactlyOnHalf() {
+        SentimentAccumulator accumulator = new SentimentAccumulator(6);
+
+        // Intervalo possível [15/6, 19/6] = [2.5, 3.17]: os dois extremos arredondam para 3
+        accumulator.add(3, 5);
+
+        assertTrue(accumulator.isSettled());
+        assertEquals(3, Math.round(accumulator.score()));
+    }
+
+    @Test
+    void partialScoreAlwaysRoundsToSettledLabel() {
+        SentimentAccumulator accumulator = new SentimentAccumulator(100);
+
+        accumulator.add(4, 60);
+        accumulator.add(3, 20);
+
+        // Intervalo possível [300/100, 380/100] = [3.0, 3.8] arredonda para 3 e 4, ainda não definido
+        assertFalse(accumulator.isSettled());
+
+        accumulator.add(4, 15);
+
+        // Intervalo possível [360/100, 380/100] = [3.6, 3.8]
+        assertTrue(accumulator.isSettled());
+        assertEquals(4, Math.round(accumulator.score()));
+    }
+
+    @Test
+    void isSettledWhenNoTokensRemain() {
+        SentimentAccumulator accumulator = new SentimentAccumulator(12);
+
+        accumulator.add(0, 5);
+        accumulator.add(4, 7);
+
+        assertTrue(accumulator.isSettled());
+        assertEquals(28.0 / 12, accumulator.score(), 1e-9);
+    }
+
+    @Test
+    void isSettledAndNeutralWhenBudgetIsEmpty() {
+        SentimentAccumulator accumulator = new SentimentAccumulator(0);
+
+        assertTrue(accumulator.isSettled());
+        assertEquals(2.0, accumulator.score(), 1e-9);
+    }
+
+    @Test
+    void rejectsWeightBeyondDeclaredBudget() {
+        SentimentAccumulator accumulator = new SentimentAccumulator(5);
+
+        assertThrows(IllegalStateException.class, () -> accumulator.add(1, 8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.api.textsense.service;
+
+import com.api.textsense.model.Label;
+import com.api.textsense.model.Sentiment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SentimentAggregatorTest {
+
+    // Cada sentença de teste começa pelo seu score, seguido das demais palavras: "4 good product"
+    private int scorerCalls = 0;
+
+    private final SentimentAggregator<String> aggregator = new SentimentAggregator<>(
+            sentence -> sentence,
+            sentence -> sentence.split(" ").length,
+            sentence -> {
+                scorerCalls++;
+                return Character.digit(sentence.charAt(0), 10);
+            });
+
+    private static String sentence(int score, int tokens) {
+        return score + " x".repeat(tokens - 1);
+    }
+
+    @Test
+    void averageWeighsEverySentenceEqually() {
+        Sentiment sentiment = aggregator.average(List.of(sentence(0, 2), sentence(4, 9)));
+
+        assertEquals(2.0, sentiment.averageScore(), 1e-9);
+        assertEquals(2.0, sentiment.score(), 1e-9);
+        assertEquals(Label.NEUTRAL, sentiment.label());
+    }
+
+    @Test
+    void weightedWeighsSentencesByTokenCount() {
+        Sentiment sentiment = aggregator.weighted(List.of(sentence(0, 2), sentence(4, 9)));
+
+        assertEquals(36.0 / 11, sentiment.averageScore(), 1e-9);
+        assertEquals(3.0, sentiment.score(), 1e-9);
+        assertEquals(Label.POSITIVE, sentiment.label());
+        assertEquals(2, sentiment.sentences().size());
+        assertEquals(9, sentiment.sentences().get(1).tokenCount());
+    }
+
+    @Test
+    void summaryStopsOnceLabelSettlesWithinSample() {
+        // Após a primeira sentença o intervalo possível é [80/22, 88/22] = [3.64, 4.0]
+        Sentiment sentiment = aggregator.summary(
+                List.of(sentence(4, 20), sentence(0, 1), sentence(0, 1)), 5);
+
+        assertEquals(1, scorerCalls);
+        assertEquals(1, sentiment.sentencesAnalysed());
+        assertEquals(3, sentiment.sentenceCount());
+        assertEquals(Label.VERY_POSITIVE, sentiment.label());
+    }
+
+    @Test
+    void summaryBudgetOnlyCoversSampledSentences() {
+        // Com o texto inteiro o intervalo seria [80/121, 4.0]; com a amostra de 2 é [80/21, 4.0]
+        Sentiment sentiment = aggregator.summary(
+                List.of(sentence(4, 20), sentence(0, 1), sentence(0, 100)), 2);
+
+        assertEquals(1, scorerCalls);
+        assertEquals(1, sentiment.sentencesAnalysed());
+        assertEquals(3, sentiment.sentenceCount());
+    }
+
+    @Test
+    void summaryStopsAtSampleCapBeforeLabelSettles() {
+        Sentiment sentiment = aggregator.summary(
+                List.of(sentence(4, 3), sentence(0, 3), sentence(4, 3), sentence(4, 3)), 2);
+
+        assertEquals(2, scorerCalls);
+        assertEquals(2, sentiment.sentencesAnalysed());
+        assertEquals(4, sentiment.sentenceCount());
+        assertEquals(2.0, sentiment.averageScore(), 1e-9);
+        assertEquals(Label.NEUTRAL, sentiment.label());
+    }
+
+    @Test
+    void summaryAnalysesEverySentenceWhileLabelIsOpen() {
+        Sentiment sentiment = aggregator.summary(
+                List.of(sentence(4, 3), sentence(0, 3), sentence(4, 3)), 5);
+
+        assertEquals(3, scorerCalls);
+        assertEquals(3, sentiment.sentencesAnalysed());
+        assertEquals(3, sentiment.sentenceCount());
+    }
+
+    @Test
+    void returnsNeutralForNoSentences() {
+        Sentiment sentiment = aggregator.summary(List.of(), 5);
+
+        assertEquals(0, scorerCalls);
+        assertEquals(Label.NEUTRAL, sentiment.label());
+        assertEquals(0, sentiment.sentencesAnalysed());
+        assertEquals(0, sentiment.sentenceCount());
+    }
+}
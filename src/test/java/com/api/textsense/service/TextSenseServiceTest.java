@@ -0,0 +1,78 @@
+package com.api.textsense.service;
+
+import com.api.textsense.dto.request.TextSenseRequest;
+import com.api.textsense.model.Label;
+import com.api.textsense.model.SentimentMode;
+import com.api.textsense.model.Sentiment;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextSenseServiceTest {
+
+    private static final String TEXT = "The product is great.";
+
+    /**
+     * SentimentProvider que apenas registra qual modo foi chamado, sem carregar o CoreNLP.
+     */
+    private static class RecordingSentimentProvider extends SentimentProvider {
+        private String call;
+
+        @Override
+        public Sentiment of(String text) {
+            call = "of";
+            return new Sentiment(Label.NEUTRAL, 2);
+        }
+
+        @Override
+        public Sentiment detailed(String text) {
+            call = "detailed";
+            return new Sentiment(Label.NEUTRAL, 2);
+        }
+
+        @Override
+        public Sentiment summary(String text) {
+            call = "summary";
+            return new Sentiment(Label.NEUTRAL, 2);
+        }
+
+        @Override
+        public Sentiment summary(String text, int maxSentences) {
+            call = "summary:" + maxSentences;
+            return new Sentiment(Label.NEUTRAL, 2);
+        }
+    }
+
+    private final RecordingSentimentProvider sentimentProvider = new RecordingSentimentProvider();
+
+    private final TextSenseService textSenseService =
+            new TextSenseService(new StatisticsProvider(), sentimentProvider, new KeyWordProvider());
+
+    @Test
+    void usesAverageWhenModeIsMissing() {
+        textSenseService.analyse(new TextSenseRequest(TEXT, null, null, null));
+
+        assertEquals("of", sentimentProvider.call);
+    }
+
+    @Test
+    void usesDetailedMode() {
+        textSenseService.analyse(new TextSenseRequest(TEXT, null, SentimentMode.DETAILED, null));
+
+        assertEquals("detailed", sentimentProvider.call);
+    }
+
+    @Test
+    void usesDefaultSampleInSummaryMode() {
+        textSenseService.analyse(new TextSenseRequest(TEXT, null, SentimentMode.SUMMARY, null));
+
+        assertEquals("summary", sentimentProvider.call);
+    }
+
+    @Test
+    void passesSampleToSummaryMode() {
+        textSenseService.analyse(new TextSenseRequest(TEXT, null, SentimentMode.SUMMARY, 3));
+
+        assertEquals("summary:3", sentimentProvider.call);
+    }
+}